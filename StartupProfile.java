@@ -0,0 +1,73 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+
+/**
+ * Mencatat waktu startup aplikasi: inisialisasi toolkit, pembuatan tampilan, dan frame pertama.
+ * Semua waktu diukur relatif terhadap masuknya main(), dan dicetak ke konsol bila profil aktif.
+ */
+public final class StartupProfile {
+
+    private static boolean enabled;
+    private static long mainNanos;
+    private static long lastNanos;
+
+    private StartupProfile() {
+    }
+
+    /**
+     * Menandai titik awal pengukuran; dipanggil sedini mungkin dari main()
+     */
+    public static void begin(boolean enable) {
+        enabled = enable;
+        mainNanos = System.nanoTime();
+        lastNanos = mainNanos;
+        if (!enabled) {
+            return;
+        }
+
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        long jvmToMainMillis = System.currentTimeMillis() - runtime.getStartTime();
+        System.out.println("[startup] jvm -> main: " + jvmToMainMillis + " ms");
+        System.out.println("[startup] CDS: " + describeSharing(runtime));
+
+        // Biaya memuat java.management dicatat sebagai fase sendiri agar tidak masuk ke toolkit init
+        mark("profiler");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Mencatat satu fase startup beserta durasinya sejak fase sebelumnya
+     */
+    public static void mark(String phase) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        System.out.printf("[startup] %-20s +%6.1f ms  (total %6.1f ms)%n",
+                phase, (now - lastNanos) / 1_000_000.0, (now - mainNanos) / 1_000_000.0);
+        lastNanos = now;
+    }
+
+    /**
+     * Melaporkan status class-data-sharing. java.vm.info hanya menunjukkan apakah arsip dasar JDK aktif;
+     * arsip aplikasi yang ditolak (hilang atau classpath tidak cocok) tidak mengubahnya, jadi arsip itu
+     * hanya dilaporkan sebagai "diminta" dan penolakannya terlihat dari peringatan [cds] milik JVM.
+     */
+    private static String describeSharing(RuntimeMXBean runtime) {
+        String vmInfo = System.getProperty("java.vm.info", "");
+        String status = vmInfo.contains("sharing") ? "arsip JDK aktif" : "tidak aktif";
+
+        for (String argument : runtime.getInputArguments()) {
+            if (argument.startsWith("-XX:SharedArchiveFile=")) {
+                return status + ", arsip aplikasi diminta: " + argument.substring("-XX:SharedArchiveFile=".length());
+            }
+            if (argument.startsWith("-XX:ArchiveClassesAtExit=")) {
+                return status + ", training run -> " + argument.substring("-XX:ArchiveClassesAtExit=".length());
+            }
+        }
+        return status;
+    }
+}
@@ -25,6 +25,13 @@ public class StoryController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
+        setupStory();
+    }
+
+    /**
+     * Menyiapkan cerita dan tombol reset setelah semua kontrol terhubung
+     */
+    private void setupStory() {
         // Menginisialisasi pengelola cerita
         storyManager = new StoryManager();
 
@@ -38,6 +45,22 @@ public class StoryController implements Initializable {
         });
     }
 
+    /**
+     * Menghubungkan kontrol yang dibuat langsung di kode (lihat StoryView),
+     * sebagai pengganti injeksi @FXML oleh FXMLLoader
+     */
+    public void bindView(Label storyTextLabel, VBox choicesContainer, Label moralityLabel,
+                         ProgressBar moralityBar, Label inventoryLabel, Button resetButton) {
+        this.storyTextLabel = storyTextLabel;
+        this.choicesContainer = choicesContainer;
+        this.moralityLabel = moralityLabel;
+        this.moralityBar = moralityBar;
+        this.inventoryLabel = inventoryLabel;
+        this.resetButton = resetButton;
+
+        setupStory();
+    }
+
     /**
      * Memperbarui UI berdasarkan keadaan cerita saat ini
      */
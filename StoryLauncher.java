@@ -0,0 +1,11 @@
+/**
+ * Main class untuk jar hasil shade.
+ * Launcher Java menolak main class turunan Application bila JavaFX ada di classpath,
+ * sehingga kelas ini hanya meneruskan argumen ke StorySimulatorApp.
+ */
+public class StoryLauncher {
+
+    public static void main(String[] args) {
+        StorySimulatorApp.main(args);
+    }
+}
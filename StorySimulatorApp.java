@@ -1,4 +1,6 @@
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -7,27 +9,104 @@ import javafx.stage.Stage;
 /**
  * Titik masuk utama untuk aplikasi Cerita Interaktif.
  * Kelas ini meluncurkan aplikasi JavaFX dan menyiapkan primary stage.
+ *
+ * Argumen peluncuran:
+ *   --ui=code                  membangun tampilan di kode (StoryView) tanpa FXMLLoader
+ *   --ui=fxml                  memuat MainView.fxml (bawaan)
+ *   --profile-startup          mencetak waktu tiap fase startup ke konsol
+ *   --exit-after-first-frame   keluar setelah frame pertama dirender (training run untuk arsip CDS)
  */
 public class  StorySimulatorApp extends Application {
 
+    private static final String USAGE =
+            "Penggunaan: StorySimulatorApp [--ui=fxml|code] [--profile-startup] [--exit-after-first-frame]";
+
+    private static String ui = "fxml";
+    private static boolean exitAfterFirstFrame;
+
     @Override
     public void start(Stage primaryStage) throws Exception {
-        // Memuat file FXML untuk UI utama
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("MainView.fxml"));
-        Parent root = loader.load();
+        StartupProfile.mark("toolkit init");
+
+        // Memilih cara membangun UI utama sesuai argumen peluncuran
+        Parent root;
+        if (ui.equals("code")) {
+            root = StoryView.create();
+        } else {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("MainView.fxml"));
+            root = loader.load();
+        }
+        StartupProfile.mark("view build (" + ui + ")");
+
+        Scene scene = new Scene(root, 800, 600);
+        // Watcher hanya dipasang bila diminta agar jalur startup biasa tidak terbebani
+        if (StartupProfile.isEnabled() || exitAfterFirstFrame) {
+            watchFirstFrame(scene);
+        }
 
         // Mengonfigurasi dan menampilkan primary stage
         primaryStage.setTitle("Story Simulator App");
-        primaryStage.setScene(new Scene(root, 800, 600));
+        primaryStage.setScene(scene);
         primaryStage.setResizable(false);
         primaryStage.show();
+        StartupProfile.mark("stage show");
+    }
+
+    /**
+     * Mencatat frame pertama yang sudah dirender, lalu keluar bila ini training run.
+     * Listener post-layout berjalan sebelum scene disinkronkan ke render thread, jadi penandaan
+     * ditunda dua pulse: pulse berikutnya harus menunggu render lock frame pertama sebelum sinkronisasi.
+     */
+    private static void watchFirstFrame(Scene scene) {
+        AnimationTimer afterRender = new AnimationTimer() {
+            private int ticks;
+
+            @Override
+            public void handle(long now) {
+                if (++ticks < 2) {
+                    return;
+                }
+                stop();
+                StartupProfile.mark("first frame rendered");
+                if (exitAfterFirstFrame) {
+                    Platform.exit();
+                }
+            }
+        };
+
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                StartupProfile.mark("first layout");
+                afterRender.start();
+            }
+        });
     }
 
     /**
      * Titik masuk aplikasi
      */
     public static void main(String[] args) {
+        // Membaca semua argumen di satu tempat; argumen lain diabaikan seperti sebelumnya,
+        // hanya nilai --ui yang salah yang dihentikan sebelum toolkit dimulai
+        boolean profileStartup = false;
+        for (String arg : args) {
+            if (arg.startsWith("--ui=")) {
+                ui = arg.substring("--ui=".length());
+                if (!ui.equals("fxml") && !ui.equals("code")) {
+                    System.err.println("Nilai --ui tidak dikenal: " + ui);
+                    System.err.println(USAGE);
+                    System.exit(2);
+                }
+            } else if (arg.equals("--profile-startup")) {
+                profileStartup = true;
+            } else if (arg.equals("--exit-after-first-frame")) {
+                exitAfterFirstFrame = true;
+            }
+        }
+
+        StartupProfile.begin(profileStartup);
         launch(args);
     }
 }
-
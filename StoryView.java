@@ -0,0 +1,82 @@
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Membangun tata letak yang sama dengan MainView.fxml langsung di kode,
+ * tanpa parsing FXML maupun injeksi field lewat refleksi, untuk mempercepat startup.
+ */
+public final class StoryView {
+
+    private StoryView() {
+    }
+
+    /**
+     * Membuat root node dan menghubungkannya ke StoryController baru
+     */
+    public static Parent create() {
+        BorderPane root = new BorderPane();
+        root.setPrefSize(800.0, 600.0);
+        root.getStylesheets().add(StoryView.class.getResource("style.css").toExternalForm());
+
+        // Bagian atas: judul dan status pemain
+        Label titleLabel = new Label("Interactive Story Simulator");
+        titleLabel.getStyleClass().add("title-label");
+
+        Label moralityLabel = new Label("Morality: 0");
+        moralityLabel.setId("moralityLabel");
+        ProgressBar moralityBar = new ProgressBar(0.5);
+        moralityBar.setId("moralityBar");
+        moralityBar.setPrefWidth(200);
+        Label inventoryLabel = new Label("Inventory: Empty");
+        inventoryLabel.setId("inventoryLabel");
+
+        HBox statusBox = new HBox(20, moralityLabel, moralityBar, inventoryLabel);
+        statusBox.setAlignment(Pos.CENTER);
+
+        VBox topBox = new VBox(10, titleLabel, statusBox);
+        topBox.setAlignment(Pos.CENTER);
+        topBox.setPadding(new Insets(20, 20, 10, 20));
+        root.setTop(topBox);
+
+        // Bagian tengah: teks cerita di dalam scroll pane
+        Label storyTextLabel = new Label();
+        storyTextLabel.setId("storyTextLabel");
+        storyTextLabel.setWrapText(true);
+        storyTextLabel.getStyleClass().add("story-text");
+
+        VBox storyBox = new VBox(20, storyTextLabel);
+        storyBox.setAlignment(Pos.CENTER);
+        storyBox.setPadding(new Insets(20));
+
+        ScrollPane scrollPane = new ScrollPane(storyBox);
+        scrollPane.setFitToWidth(true);
+        scrollPane.getStyleClass().add("story-scroll-pane");
+        root.setCenter(scrollPane);
+
+        // Bagian bawah: wadah tombol pilihan dan tombol reset
+        Button resetButton = new Button("Play Again");
+        resetButton.setId("resetButton");
+        resetButton.setVisible(false);
+
+        VBox choicesContainer = new VBox(10, resetButton);
+        choicesContainer.setId("choicesContainer");
+        choicesContainer.setAlignment(Pos.CENTER);
+        choicesContainer.setPadding(new Insets(20));
+        root.setBottom(choicesContainer);
+
+        // Menghubungkan kontrol ke controller, menggantikan injeksi @FXML
+        StoryController controller = new StoryController();
+        controller.bindView(storyTextLabel, choicesContainer, moralityLabel,
+                moralityBar, inventoryLabel, resetButton);
+
+        return root;
+    }
+}